@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the plain jar vs. the fast-startup (AOT + CDS) image.
+#
+# Usage: scripts/measure-startup.sh [runs]
+# Requires docker and the postgres service from docker-compose.yml to be running.
+# The probe joins the postgres container's network; override with NETWORK=<name>.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=8082
+POSTGRES_CONTAINER=content-postgres-db
+NETWORK="${NETWORK:-$(docker inspect -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}' "$POSTGRES_CONTAINER")}"
+if [ -z "$NETWORK" ]; then
+    echo "Could not determine the network of $POSTGRES_CONTAINER; is docker compose up? Set NETWORK=<name>." >&2
+    exit 1
+fi
+PROBE_URL="http://localhost:${PORT}/api/content/creator/0"
+DB_ENV=(-e SPRING_DATASOURCE_URL=jdbc:postgresql://postgres:5432/content_db
+        -e SPRING_DATASOURCE_USERNAME=postgres
+        -e SPRING_DATASOURCE_PASSWORD=admin123
+        -e MEDIA_SIGNING_SECRET="$(head -c 48 /dev/urandom | base64)")
+
+now_ms() { date +%s%3N; }
+
+# Starts the given image and prints milliseconds until the first HTTP response.
+measure() {
+    local image="$1"
+    local start end
+    start=$(now_ms)
+    docker run -d --rm --name startup-probe --network "$NETWORK" -p "${PORT}:${PORT}" "${DB_ENV[@]}" "$image" > /dev/null
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$PROBE_URL" || true)" != "000" ]; do
+        sleep 0.05
+    done
+    end=$(now_ms)
+    docker stop startup-probe > /dev/null
+    echo $((end - start))
+}
+
+report() {
+    local label="$1" image="$2" total=0 t
+    for _ in $(seq "$RUNS"); do
+        t=$(measure "$image")
+        total=$((total + t))
+    done
+    printf '%-12s avg time-to-first-request: %d ms over %d runs\n' "$label" $((total / RUNS)) "$RUNS"
+}
+
+./gradlew -q bootJar
+docker build -q -t content-service:plain -f Dockerfile . > /dev/null
+./gradlew -q bootJar -PfastStartup
+docker build -q -t content-service:fast -f Dockerfile.fast . > /dev/null
+
+report "plain jar" content-service:plain
+report "aot + cds" content-service:fast
@@ -2,8 +2,10 @@ package com.project.content;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ContentServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ContentServiceApplication.class, args);
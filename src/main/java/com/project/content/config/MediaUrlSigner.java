@@ -0,0 +1,95 @@
+package com.project.content.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and verifies short-lived HMAC-SHA256 signed media URLs.
+ * <p>
+ * The signature covers filename, content ID, user ID and expiry, so the file endpoint
+ * can authorize every (range) request in CPU only, without a DB or entitlement lookup.
+ */
+@Component
+public class MediaUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final ThreadLocal<Mac> macs;
+
+    public MediaUrlSigner(@Value("${media.signing-secret}") String secret,
+                          @Value("${media.url-ttl-seconds:900}") long ttlSeconds) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("media.signing-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Builds a signed URL for a stored file.
+     *
+     * @param filename  stored filename
+     * @param contentId content the file belongs to
+     * @param userId    user the URL is issued to (may be null)
+     * @return relative URL, e.g. /files/abc.jpeg?cid=..&uid=..&exp=..&sig=..
+     */
+    public String sign(String filename, UUID contentId, Long userId) {
+        long expires = Instant.now().getEpochSecond() + ttlSeconds;
+        String signature = signature(filename, contentId, userId, expires);
+
+        StringBuilder url = new StringBuilder("/files/")
+                .append(UriUtils.encodePathSegment(filename, StandardCharsets.UTF_8))
+                .append("?cid=").append(contentId);
+        if (userId != null) {
+            url.append("&uid=").append(userId);
+        }
+        return url.append("&exp=").append(expires)
+                .append("&sig=").append(signature)
+                .toString();
+    }
+
+    /**
+     * Checks a signed URL's parameters.
+     *
+     * @return true if the signature matches and the URL has not expired
+     */
+    public boolean verify(String filename, UUID contentId, Long userId, long expires, String signature) {
+        if (signature == null || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = signature(filename, contentId, userId, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(String filename, UUID contentId, Long userId, long expires) {
+        String payload = filename + '\n' + contentId + '\n' + (userId != null ? userId : "") + '\n' + expires;
+        Mac mac = macs.get();
+        byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
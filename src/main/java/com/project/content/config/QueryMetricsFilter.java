@@ -0,0 +1,59 @@
+package com.project.content.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Tracks DB round trips per HTTP request and flags requests that look like N+1 query patterns.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final QueryMetricsProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.clear();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        if (stats.getSelectCount() > properties.getSelectThreshold()) {
+            Map.Entry<String, Integer> repeated = stats.mostRepeatedSelect();
+            log.warn("Possible N+1: {} {} issued {} SELECTs ({} queries, {} ms in DB); most repeated x{}: {}",
+                    request.getMethod(), request.getRequestURI(), stats.getSelectCount(),
+                    stats.getQueryCount(), stats.getTotalTimeMs(), repeated.getValue(), repeated.getKey());
+        } else if (log.isDebugEnabled() && stats.getQueryCount() > 0) {
+            log.debug("{} {}: {} queries, {} ms in DB",
+                    request.getMethod(), request.getRequestURI(), stats.getQueryCount(), stats.getTotalTimeMs());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.content.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Slow-query and per-request DB accounting settings bound from {@code query-metrics.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "query-metrics")
+@Getter
+@Setter
+public class QueryMetricsProperties {
+
+    /**
+     * Wraps the DataSource with the statement listener when true.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements slower than this are logged with their parameter shapes.
+     */
+    private long slowQueryThresholdMs = 200;
+
+    /**
+     * A request issuing more SELECTs than this is flagged as a likely N+1.
+     */
+    private int selectThreshold = 10;
+}
@@ -0,0 +1,97 @@
+package com.project.content.config;
+
+import com.project.content.service.RateLimiterService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throttles configured endpoints with per-principal and per-IP token buckets.
+ * <p>
+ * Runs after {@link JwtAuthenticationFilter} so the authenticated user (if any) is known.
+ * Rejected requests get {@code 429 Too Many Requests} with a {@code Retry-After} header.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiterService rateLimiterService;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getEndpoints().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        for (Map.Entry<String, RateLimitProperties.Endpoint> entry : properties.getEndpoints().entrySet()) {
+            RateLimitProperties.Endpoint endpoint = entry.getValue();
+            if (!matches(endpoint, request)) {
+                continue;
+            }
+
+            // getRemoteAddr() is the TCP peer, or the forwarded client when trusted proxies are configured (see README)
+            List<String> keys = new ArrayList<>(2);
+            keys.add(entry.getKey() + "|ip:" + request.getRemoteAddr());
+            String principal = currentPrincipal();
+            if (principal != null) {
+                keys.add(entry.getKey() + "|user:" + principal);
+            }
+            long retryAfter = rateLimiterService.tryAcquire(keys, endpoint);
+
+            if (retryAfter > 0) {
+                errorResponseWriter.write(response, HttpStatus.TOO_MANY_REQUESTS,
+                        "Rate limit exceeded. Retry after " + retryAfter + " seconds.", retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Endpoint endpoint, HttpServletRequest request) {
+        if (endpoint.getMethod() != null && !endpoint.getMethod().equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        return endpoint.getPath() != null && pathMatcher.match(endpoint.getPath(), lookupPath(request));
+    }
+
+    /**
+     * Decoded, normalized path within the application, the same path MVC maps to a handler.
+     * Matching the raw request URI would let {@code /api/content/%75pload} slip past every bucket.
+     */
+    static String lookupPath(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.content.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limit settings bound from {@code ratelimit.*} properties.
+ * <p>
+ * Each entry under {@code ratelimit.endpoints} describes one throttled endpoint.
+ * The same limit is applied independently to every principal and every client IP.
+ */
+@Component
+@ConfigurationProperties(prefix = "ratelimit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /**
+     * Master switch for the rate limit filter.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Buckets untouched (and fully refilled) for this long are evicted.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Throttled endpoints keyed by a short name, e.g. "upload".
+     */
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        /**
+         * Ant-style path pattern, e.g. /api/content/upload.
+         */
+        private String path;
+
+        /**
+         * HTTP method to match; null matches any method.
+         */
+        private String method;
+
+        /**
+         * Maximum burst size (bucket capacity).
+         */
+        private int capacity = 10;
+
+        /**
+         * Sustained rate, in requests per minute.
+         */
+        private int refillPerMinute = 60;
+    }
+}
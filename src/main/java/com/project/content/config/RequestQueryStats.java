@@ -0,0 +1,76 @@
+package com.project.content.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request DB round-trip counters, bound to the request thread by {@link QueryMetricsFilter}.
+ * <p>
+ * Statements executed outside a request (scheduled jobs, startup) are not tracked.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int queryCount;
+    private int selectCount;
+    private long totalTimeMs;
+    private final Map<String, Integer> selectsBySql = new HashMap<>();
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return stats of the current request, or null outside a request
+     */
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Counts one statement; DB time is added per execution with {@link #addTime(long)}.
+     */
+    void record(String sql) {
+        queryCount++;
+        if (isSelect(sql)) {
+            selectCount++;
+            selectsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void addTime(long elapsedMs) {
+        totalTimeMs += elapsedMs;
+    }
+
+    int getQueryCount() {
+        return queryCount;
+    }
+
+    int getSelectCount() {
+        return selectCount;
+    }
+
+    long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    /**
+     * @return the SELECT issued most often in this request, or null if none
+     */
+    Map.Entry<String, Integer> mostRepeatedSelect() {
+        return selectsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+}
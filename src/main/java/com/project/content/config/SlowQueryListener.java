@@ -0,0 +1,77 @@
+package com.project.content.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Statement-level listener replacing {@code spring.jpa.show-sql}.
+ * <p>
+ * Every statement is counted against the current request; only statements slower than
+ * the configured threshold are logged, with parameter types instead of values.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private final QueryMetricsProperties properties;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // nothing to do before execution
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                stats.record(queryInfo.getQuery());
+            }
+            // elapsed time covers the whole execution (a batch may hold several statements)
+            stats.addTime(elapsedMs);
+        }
+
+        if (elapsedMs >= properties.getSlowQueryThresholdMs()) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                log.warn("Slow query ({} ms for {} statement(s), success={}): {} params={}",
+                        elapsedMs, queryInfoList.size(), execInfo.isSuccess(), queryInfo.getQuery(),
+                        parameterShape(queryInfo));
+            }
+        }
+    }
+
+    /**
+     * Describes the first parameter set by type only, e.g. [Long, String, null].
+     */
+    private String parameterShape(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return "[]";
+        }
+        List<ParameterSetOperation> parameters = queryInfo.getParametersList().get(0);
+        String shape = parameters.stream()
+                .map(SlowQueryListener::typeOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+        int batchSize = queryInfo.getParametersList().size();
+        return batchSize > 1 ? shape + " x" + batchSize : shape;
+    }
+
+    private static String typeOf(ParameterSetOperation operation) {
+        // setNull(index, sqlType) carries a java.sql.Types code, not a value
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.content.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+/**
+ * Startup tuning used together with {@code spring.main.lazy-initialization=true}
+ * (the "fast" profile).
+ * <p>
+ * Controllers, services and repositories sit on the request path, so they are
+ * still created eagerly; everything else is initialized on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps hot beans out of lazy initialization so the first request
+     * does not pay for creating them.
+     *
+     * @return filter excluding controllers, services and repositories
+     */
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                        || AnnotatedElementUtils.hasAnnotation(beanType, Service.class)
+                        || Repository.class.isAssignableFrom(beanType);
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.content.config;
+
+import com.project.content.service.LocalMediaStorage;
+import com.project.content.service.MediaStorage;
+import com.project.content.service.SegmentMediaStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Selects the media storage backend with {@code storage.mode}:
+ * "files" (default, one file per upload) or "segments" (small uploads packed into segment files).
+ * <p>
+ * The mode is read when the bean is created rather than through a bean condition, so it
+ * also works in the AOT-processed fast-startup build, where conditions are fixed at build time.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    public MediaStorage mediaStorage(
+            @Value("${storage.mode:files}") String mode,
+            @Value("${storage.upload-dir:${user.dir}/uploads}") Path uploadDir,
+            @Value("${storage.segments.max-segment-bytes:268435456}") long maxSegmentBytes,
+            @Value("${storage.segments.max-blob-bytes:1048576}") int maxBlobBytes,
+            @Value("${storage.segments.compaction-threshold:0.5}") double compactionThreshold
+    ) throws IOException {
+        LocalMediaStorage files = new LocalMediaStorage(uploadDir);
+        return switch (mode) {
+            case "files" -> files;
+            case "segments" -> new SegmentMediaStorage(uploadDir.resolve("segments"), maxSegmentBytes,
+                    maxBlobBytes, compactionThreshold, files);
+            default -> throw new IllegalStateException(
+                    "Unknown storage.mode '" + mode + "', expected 'files' or 'segments'");
+        };
+    }
+}
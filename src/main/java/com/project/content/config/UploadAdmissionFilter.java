@@ -0,0 +1,67 @@
+package com.project.content.config;
+
+import com.project.content.exception.UploadRejectedException;
+import com.project.content.service.UploadAdmissionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link UploadAdmissionService} to the upload endpoint.
+ * <p>
+ * Runs after the security chain (so rate limiting rejects abusive clients first) but before the
+ * DispatcherServlet parses the multipart body, so rejected uploads never reach the temp volume.
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final String UPLOAD_PATH = "/api/content/upload";
+
+    private final UploadAdmissionProperties properties;
+    private final UploadAdmissionService uploadAdmissionService;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                // decoded path, so a percent-encoded upload path cannot bypass admission control
+                || !UPLOAD_PATH.equals(RateLimitFilter.lookupPath(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long reserved;
+        try {
+            reserved = uploadAdmissionService.acquire(request.getContentLengthLong());
+        } catch (UploadRejectedException e) {
+            errorResponseWriter.write(response, e.getStatus(), e.getMessage(), e.getRetryAfterSeconds());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponseWriter.write(response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Upload interrupted, please retry later.", properties.getBusyRetryAfterSeconds());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            uploadAdmissionService.release(reserved);
+        }
+    }
+}
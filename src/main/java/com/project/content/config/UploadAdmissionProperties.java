@@ -0,0 +1,58 @@
+package com.project.content.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Upload admission limits bound from {@code upload-admission.*} properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "upload-admission")
+@Getter
+@Setter
+public class UploadAdmissionProperties {
+
+    /**
+     * Master switch for upload admission control.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of uploads in progress on this node.
+     */
+    private int maxConcurrentUploads = 8;
+
+    /**
+     * Maximum total declared size of uploads in progress on this node.
+     */
+    private long maxConcurrentBytes = 200L * 1024 * 1024;
+
+    /**
+     * Maximum number of uploads waiting for admission; more are rejected with 429.
+     */
+    private int maxQueueSize = 16;
+
+    /**
+     * How long a queued upload may wait before it is rejected with 503.
+     */
+    private Duration queueTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Minimum free space that must remain on the storage and multipart temp volumes.
+     */
+    private long minFreeBytes = 1024L * 1024 * 1024;
+
+    /**
+     * Retry-After sent when the node is busy.
+     */
+    private long busyRetryAfterSeconds = 5;
+
+    /**
+     * Retry-After sent when disk space is low.
+     */
+    private long lowDiskRetryAfterSeconds = 60;
+}
@@ -3,12 +3,20 @@ package com.project.content.controller;
 import com.project.content.dto.ContentUploadResponse;
 import com.project.content.dto.ModerationRequestDto;
 import com.project.content.dto.ReportRequestDto;
+import com.project.content.dto.TrendingContentDto;
 import com.project.content.entity.Content;
+import com.project.content.entity.CreatorStats;
 import com.project.content.enums.ContentType;
 import com.project.content.enums.FileType;
 import com.project.content.enums.Visibility;
+import com.project.content.exception.InvalidRequestException;
 import com.project.content.service.ContentService;
+import com.project.content.service.CreatorFeedCache;
+import com.project.content.service.CreatorStatsService;
+import com.project.content.service.ViewCounterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +35,10 @@ import java.util.UUID;
 public class ContentController {
 
     private final ContentService contentService;
+    private final CreatorStatsService creatorStatsService;
+    private final ViewCounterService viewCounterService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * Uploads content with metadata and file.
@@ -59,18 +71,58 @@ public class ContentController {
     }
 
     /**
-     * Fetches content by creator ID.
+     * Fetches content by creator ID, optionally one page at a time (newest first).
+     * <p>
+     * The public feed is returned as bytes from the pre-serialized feed cache
+     * (gzip-encoded when the client accepts it), with no query or JSON serialization.
      *
      * @param creatorId      creator's ID
      * @param includePrivate if true, return both public and private posts
-     * @return list of content
+     * @param page           zero-based page index; all content when omitted
+     * @param size           page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return list of content, or the cached public feed bytes
      */
     @GetMapping("/creator/{creatorId}")
-    public List<Content> getContentByCreator(
+    public ResponseEntity<?> getContentByCreator(
             @PathVariable Long creatorId,
-            @RequestParam(defaultValue = "false") boolean includePrivate
+            @RequestParam(defaultValue = "false") boolean includePrivate,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return contentService.getContentByCreator(creatorId, includePrivate);
+        if (page != null && (page < 0 || size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new InvalidRequestException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        if (!includePrivate) {
+            return feedResponse(contentService.getPublicFeed(creatorId, page, size), acceptEncoding);
+        }
+
+        return ResponseEntity.ok(page != null
+                ? contentService.getContentByCreator(creatorId, true, page, size)
+                : contentService.getContentByCreator(creatorId, true));
+    }
+
+    /**
+     * Returns content counters for a creator (public, private, paid, moderated, total price).
+     *
+     * @param creatorId creator's ID
+     * @return creator statistics
+     */
+    @GetMapping("/creator/{creatorId}/stats")
+    public ResponseEntity<CreatorStats> getCreatorStats(@PathVariable Long creatorId) {
+        return ResponseEntity.ok(creatorStatsService.getStats(creatorId));
+    }
+
+    /**
+     * Returns the most viewed public content, ranked by a time-decayed view score.
+     *
+     * @param limit maximum number of entries
+     * @return trending content IDs with their scores
+     */
+    @GetMapping("/trending")
+    public List<TrendingContentDto> getTrending(@RequestParam(defaultValue = "20") int limit) {
+        return viewCounterService.getTrending(limit);
     }
 
     /**
@@ -129,4 +181,18 @@ public class ContentController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Builds a response from a pre-serialized feed, using the gzip copy if the client accepts it.
+     */
+    private ResponseEntity<byte[]> feedResponse(CreatorFeedCache.CachedFeed feed, String acceptEncoding) {
+        boolean gzip = feed.getGzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? feed.getGzip() : feed.getJson());
+    }
 }
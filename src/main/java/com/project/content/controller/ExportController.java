@@ -0,0 +1,73 @@
+package com.project.content.controller;
+
+import com.project.content.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming NDJSON exports for backfills and moderation analytics.
+ * Each line is one JSON object; resume an interrupted export with {@code after=<last id>}.
+ */
+@RestController
+@RequestMapping("/api/content/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Exports all content of a creator.
+     *
+     * @param creatorId creator's ID
+     * @param after     resume after this content id (optional)
+     * @param gzip      gzip-compress the response
+     * @param response  servlet response written directly
+     */
+    @GetMapping("/creator/{creatorId}")
+    public void exportCreatorContent(
+            @PathVariable Long creatorId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        try (OutputStream out = open(response, gzip)) {
+            exportService.exportCreatorContent(creatorId, after, out);
+        }
+    }
+
+    /**
+     * Exports the reports table.
+     *
+     * @param after    resume after this report id (optional)
+     * @param gzip     gzip-compress the response
+     * @param response servlet response written directly
+     */
+    @GetMapping("/reports")
+    public void exportReports(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        try (OutputStream out = open(response, gzip)) {
+            exportService.exportReports(after, out);
+        }
+    }
+
+    private OutputStream open(HttpServletResponse response, boolean gzip) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            // sync flush so every chunk flushed by the exporter reaches the client
+            return new GZIPOutputStream(response.getOutputStream(), 8192, true);
+        }
+        return response.getOutputStream();
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.content.controller;
+
+import com.project.content.config.MediaUrlSigner;
+import com.project.content.exception.AccessDeniedException;
+import com.project.content.service.ContentService;
+import com.project.content.service.ViewCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Serves stored media files through signed URLs issued by the content metadata endpoint.
+ * Range requests are handled by Spring MVC, and each one is authorized by the signature alone.
+ */
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+public class FileController {
+
+    private final MediaUrlSigner mediaUrlSigner;
+    private final ContentService contentService;
+    private final ViewCounterService viewCounterService;
+
+    /**
+     * Streams a file if the signed URL parameters are valid.
+     *
+     * @param filename stored filename
+     * @param cid      content UUID the URL was issued for
+     * @param uid      user the URL was issued to (optional)
+     * @param exp      expiry, epoch seconds
+     * @param sig      HMAC signature
+     * @param range    Range header, used to count a download only once per playback
+     * @return file resource (206 partial content for range requests)
+     */
+    @GetMapping("/{filename:.+}")
+    public ResponseEntity<Resource> getFile(
+            @PathVariable String filename,
+            @RequestParam(required = false) UUID cid,
+            @RequestParam(required = false) Long uid,
+            @RequestParam(required = false) Long exp,
+            @RequestParam(required = false) String sig,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range
+    ) {
+        if (cid == null || exp == null || sig == null || !mediaUrlSigner.verify(filename, cid, uid, exp, sig)) {
+            throw new AccessDeniedException("Invalid or expired media link.");
+        }
+
+        Resource file = contentService.loadFile(filename);
+
+        if (range == null || range.startsWith("bytes=0-")) {
+            viewCounterService.recordDownload(cid);
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CACHE_CONTROL, "private, max-age=" + Math.max(0, exp - System.currentTimeMillis() / 1000))
+                .body(file);
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.content.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Entry of the trending list: content ID and its time-decayed view score.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TrendingContentDto {
+    private UUID contentId;
+    private double score;
+}
@@ -66,6 +66,7 @@ package com.project.content.entity;
 import com.project.content.enums.Visibility;
 import com.project.content.enums.FileType;
 import com.project.content.enums.ContentType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import java.math.BigDecimal;
@@ -76,7 +77,10 @@ import java.util.UUID;
  * Entity representing content uploaded by creators.
  */
 @Entity
-@Table(name = "contents")
+@Table(name = "contents", indexes = {
+        // keyset pagination for creator exports: WHERE creator_id = ? AND id > ? ORDER BY id
+        @Index(name = "idx_contents_creator_id_id", columnList = "creatorId, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -100,6 +104,8 @@ public class Content {
     @Column(nullable = false)
     private String filename;
 
+    // Unsigned path, kept for storage only; clients get signedUrl instead
+    @JsonIgnore
     @Column(nullable = false)
     private String url;
 
@@ -127,4 +133,8 @@ public class Content {
 
     @Column(length = 500)
     private String moderationReason;
+
+    // Short-lived signed download URL, issued per request and never persisted
+    @Transient
+    private String signedUrl;
 }
@@ -0,0 +1,31 @@
+package com.project.content.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Accumulated view count of a content, written by batched upserts from ViewCounterService.
+ */
+@Entity
+@Table(name = "content_view_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentViewCount {
+
+    @Id
+    private UUID contentId;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.project.content.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Per-creator content counters, maintained incrementally by upload, moderation and delete
+ * and periodically reconciled against the contents table.
+ */
+@Entity
+@Table(name = "creator_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreatorStats {
+
+    @Id
+    private Long creatorId;
+
+    @Column(nullable = false)
+    private long publicCount;
+
+    @Column(nullable = false)
+    private long privateCount;
+
+    // ContentType.PAID posts, independent of visibility
+    @Column(nullable = false)
+    private long paidCount;
+
+    @Column(nullable = false)
+    private long moderatedCount;
+
+    @Column(nullable = false)
+    private BigDecimal totalPrice;
+
+    @Column
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.project.content.exception;
+
+/**
+ * Exception thrown when request parameters are out of range; mapped to HTTP 400.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidRequestException with the specified message.
+     *
+     * @param message the detail message
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.content.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when an upload is not admitted (overload, queue timeout or low disk space).
+ * Carries the HTTP status and the Retry-After delay to send back to the client.
+ */
+public class UploadRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new UploadRejectedException.
+     *
+     * @param status            HTTP status to return (429 or 503)
+     * @param retryAfterSeconds suggested delay before retrying
+     * @param message           the detail message
+     */
+    public UploadRejectedException(HttpStatus status, long retryAfterSeconds, String message) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
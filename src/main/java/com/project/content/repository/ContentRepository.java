@@ -2,15 +2,32 @@ package com.project.content.repository;
 
 import com.project.content.entity.Content;
 import com.project.content.enums.Visibility;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ContentRepository extends JpaRepository<Content, UUID> {
     List<Content> findByCreatorIdAndVisibility(Long creatorId, Visibility visibility);
+    List<Content> findByCreatorIdAndVisibility(Long creatorId, Visibility visibility, Pageable pageable);
     List<Content> findByCreatorId(Long creatorId);
+    List<Content> findByCreatorId(Long creatorId, Pageable pageable);
     Optional<Content> findById(UUID id);
 
+    /**
+     * Streams a creator's content in id order after the given keyset cursor.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Content> streamByCreatorIdAndIdGreaterThanOrderByIdAsc(Long creatorId, UUID after);
+
 }
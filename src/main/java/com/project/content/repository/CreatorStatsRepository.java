@@ -0,0 +1,69 @@
+package com.project.content.repository;
+
+import com.project.content.entity.CreatorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface CreatorStatsRepository extends JpaRepository<CreatorStats, Long> {
+
+    /**
+     * Adds the given deltas to a creator's counters, creating the row if needed.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO creator_stats (creator_id, public_count, private_count, paid_count, moderated_count, total_price, updated_at)
+            VALUES (:creatorId, :publicDelta, :privateDelta, :paidDelta, :moderatedDelta, :priceDelta, now())
+            ON CONFLICT (creator_id) DO UPDATE SET
+                public_count = creator_stats.public_count + EXCLUDED.public_count,
+                private_count = creator_stats.private_count + EXCLUDED.private_count,
+                paid_count = creator_stats.paid_count + EXCLUDED.paid_count,
+                moderated_count = creator_stats.moderated_count + EXCLUDED.moderated_count,
+                total_price = creator_stats.total_price + EXCLUDED.total_price,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyDelta(@Param("creatorId") Long creatorId,
+                    @Param("publicDelta") long publicDelta,
+                    @Param("privateDelta") long privateDelta,
+                    @Param("paidDelta") long paidDelta,
+                    @Param("moderatedDelta") long moderatedDelta,
+                    @Param("priceDelta") BigDecimal priceDelta);
+
+    /**
+     * Recomputes every creator's counters from the contents table in one statement.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO creator_stats (creator_id, public_count, private_count, paid_count, moderated_count, total_price, updated_at)
+            SELECT c.creator_id,
+                   count(*) FILTER (WHERE c.visibility = 'PUBLIC'),
+                   count(*) FILTER (WHERE c.visibility = 'PRIVATE'),
+                   count(*) FILTER (WHERE c.content_type = 'PAID'),
+                   count(*) FILTER (WHERE c.moderated),
+                   coalesce(sum(c.price), 0),
+                   now()
+            FROM contents c
+            GROUP BY c.creator_id
+            ON CONFLICT (creator_id) DO UPDATE SET
+                public_count = EXCLUDED.public_count,
+                private_count = EXCLUDED.private_count,
+                paid_count = EXCLUDED.paid_count,
+                moderated_count = EXCLUDED.moderated_count,
+                total_price = EXCLUDED.total_price,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int reconcileFromContents();
+
+    /**
+     * Removes counters of creators that no longer have any content.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM creator_stats s
+            WHERE NOT EXISTS (SELECT 1 FROM contents c WHERE c.creator_id = s.creator_id)
+            """, nativeQuery = true)
+    int deleteOrphans();
+}
@@ -1,9 +1,23 @@
 package com.project.content.repository;
 
 import com.project.content.entity.Report;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ReportRepository extends JpaRepository<Report, UUID> {
+
+    /**
+     * Streams all reports in id order after the given keyset cursor.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Report> streamByIdGreaterThanOrderByIdAsc(UUID after);
 }
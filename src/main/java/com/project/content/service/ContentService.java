@@ -1,5 +1,8 @@
 package com.project.content.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.content.config.MediaUrlSigner;
 import com.project.content.dto.ContentUploadResponse;
 import com.project.content.dto.ReportRequestDto;
 import com.project.content.entity.Content;
@@ -12,10 +15,19 @@ import com.project.content.exception.ContentNotFoundException;
 import com.project.content.exception.ResourceNotFoundException;
 import com.project.content.repository.ContentRepository;
 import com.project.content.repository.ReportRepository;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,7 +39,7 @@ import java.util.UUID;
  * <p>
  * This includes:
  * - Saving content metadata
- * - Handling file storage locally (can be extended to S3)
+ * - Handling file storage through {@link MediaStorage} (plain files or packed segments)
  * - Content visibility control (public/private)
  * - Enforcing paid access for premium content
  */
@@ -38,18 +50,42 @@ public class ContentService {
     private final UserAccessService userAccessService;
 
     private final ReportRepository reportRepository;
-
+    private final CreatorStatsService creatorStatsService;
+    private final CreatorFeedCache creatorFeedCache;
+    private final ViewCounterService viewCounterService;
+    private final MediaUrlSigner mediaUrlSigner;
+    private final MediaStorage mediaStorage;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructs ContentService with required dependencies.
      *
      * @param contentRepository Repository for accessing Content entity
      * @param userAccessService Service for validating user access to paid content
+     * @param creatorStatsService Service maintaining per-creator counters
+     * @param creatorFeedCache    Cache of serialized public creator feeds
+     * @param objectMapper        Mapper used to pre-serialize cached feeds
+     * @param viewCounterService  In-memory view counters
+     * @param mediaUrlSigner      Signer for short-lived download URLs
+     * @param mediaStorage        Storage backend for uploaded files
+     * @param transactionManager  Manager for transactions that must not span file I/O
      */
-    public ContentService(ContentRepository contentRepository, UserAccessService userAccessService, ReportRepository reportRepository) {
+    public ContentService(ContentRepository contentRepository, UserAccessService userAccessService,
+                          ReportRepository reportRepository, CreatorStatsService creatorStatsService,
+                          CreatorFeedCache creatorFeedCache, ObjectMapper objectMapper,
+                          ViewCounterService viewCounterService, MediaUrlSigner mediaUrlSigner,
+                          MediaStorage mediaStorage, PlatformTransactionManager transactionManager) {
         this.contentRepository = contentRepository;
         this.userAccessService = userAccessService;
         this.reportRepository = reportRepository;
+        this.creatorStatsService = creatorStatsService;
+        this.creatorFeedCache = creatorFeedCache;
+        this.objectMapper = objectMapper;
+        this.viewCounterService = viewCounterService;
+        this.mediaUrlSigner = mediaUrlSigner;
+        this.mediaStorage = mediaStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -64,6 +100,7 @@ public class ContentService {
      * @param contentType FREE or PAID
      * @param file        MultipartFile being uploaded
      * @return ContentUploadResponse with upload status and metadata
+     * @throws UncheckedIOException if the file cannot be stored
      */
     public ContentUploadResponse uploadContent(
             Long creatorId,
@@ -75,57 +112,62 @@ public class ContentService {
             ContentType contentType,
             MultipartFile file
     ) {
+        // Get file extension
+        String originalName = file.getOriginalFilename();
+        String extension = "";
+
+        if (originalName != null && originalName.contains(".")) {
+            extension = originalName.substring(originalName.lastIndexOf("."));
+        }
+
+        // Generate unique file name
+        String filename = UUID.randomUUID() + extension;
+
+        // Write the file before any transaction starts, so no pooled connection is held during the copy
         try {
-            // Ensure /uploads directory exists
-            File uploadFolder = ensureUploadDir();
-            String baseDir = uploadFolder.getAbsolutePath() + "/";
+            mediaStorage.store(filename, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded file", e);
+        }
 
-            // Get file extension
-            String originalName = file.getOriginalFilename();
-            String extension = "";
+        String url = "/files/" + filename;
+
+        // Save content metadata in DB
+        Content content = Content.builder()
+                .creatorId(creatorId)
+                .title(title)
+                .description(description)
+                .filename(filename)
+                .url(url)
+                .visibility(visibility)
+                .fileType(fileType)
+                .contentType(contentType)
+                .price(price)
+                .uploadedAt(LocalDateTime.now())
+                .build();
 
-            if (originalName != null && originalName.contains(".")) {
-                extension = originalName.substring(originalName.lastIndexOf("."));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                contentRepository.save(content);
+                creatorStatsService.recordUpload(content);
+                creatorFeedCache.invalidate(creatorId);
+            });
+        } catch (RuntimeException e) {
+            // Remove the stored file again if the metadata did not commit
+            try {
+                mediaStorage.delete(filename);
+            } catch (RuntimeException cleanup) {
+                e.addSuppressed(cleanup);
             }
-
-            // Generate unique file name
-            String filename = UUID.randomUUID() + extension;
-            File dest = new File(baseDir + filename);
-            file.transferTo(dest);
-
-            String url = "/files/" + filename;
-
-            // Save content metadata in DB
-            Content content = Content.builder()
-                    .creatorId(creatorId)
-                    .title(title)
-                    .description(description)
-                    .filename(filename)
-                    .url(url)
-                    .visibility(visibility)
-                    .fileType(fileType)
-                    .contentType(contentType)
-                    .price(price)
-                    .uploadedAt(LocalDateTime.now())
-                    .build();
-
-            contentRepository.save(content);
-
-            return ContentUploadResponse.builder()
-                    .filename(filename)
-                    .url(url)
-                    .visibility(visibility)
-                    .message("Uploaded successfully")
-                    .build();
-
-        } catch (Exception e) {
-            return ContentUploadResponse.builder()
-                    .filename(null)
-                    .url(null)
-                    .visibility(null)
-                    .message("Upload failed: " + e.getMessage())
-                    .build();
+            throw e;
         }
+
+        return ContentUploadResponse.builder()
+                .filename(filename)
+                .url(mediaUrlSigner.sign(filename, content.getId(), creatorId))
+                .visibility(visibility)
+                .message("Uploaded successfully")
+                .build();
     }
 
     /**
@@ -143,8 +185,54 @@ public class ContentService {
         }
     }
 
+    /**
+     * Returns one page of content by creator ID, newest first. Optionally includes PRIVATE content.
+     *
+     * @param creatorId      Creator's user ID
+     * @param includePrivate If true, includes private content
+     * @param page           Zero-based page index
+     * @param size           Page size
+     * @return List of Content objects
+     */
+    public List<Content> getContentByCreator(Long creatorId, boolean includePrivate, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "uploadedAt"));
+        if (includePrivate) {
+            return contentRepository.findByCreatorId(creatorId, pageable);
+        } else {
+            return contentRepository.findByCreatorIdAndVisibility(creatorId, Visibility.PUBLIC, pageable);
+        }
+    }
+
+    /**
+     * Returns the public feed of a creator as pre-serialized JSON, served from
+     * {@link CreatorFeedCache} when possible.
+     *
+     * @param creatorId Creator's user ID
+     * @param page      Zero-based page index, or null for the whole feed
+     * @param size      Page size (ignored when page is null)
+     * @return encoded feed
+     */
+    public CreatorFeedCache.CachedFeed getPublicFeed(Long creatorId, Integer page, int size) {
+        CreatorFeedCache.FeedKey key = new CreatorFeedCache.FeedKey(creatorId, page, page != null ? size : 0);
+        CreatorFeedCache.CachedFeed cached = creatorFeedCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = creatorFeedCache.generation(creatorId);
+        List<Content> contents = page != null
+                ? getContentByCreator(creatorId, false, page, size)
+                : getContentByCreator(creatorId, false);
+        try {
+            return creatorFeedCache.put(key, objectMapper.writeValueAsBytes(contents), generation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feed of creator " + creatorId, e);
+        }
+    }
+
     /**
      * Returns a single content by its ID, checking access if it’s PAID content.
+     * The returned content carries a short-lived signed URL for downloading its file.
      *
      * @param contentId UUID of the content
      * @param userId    User requesting the content
@@ -162,6 +250,8 @@ public class ContentService {
             }
         }
 
+        viewCounterService.recordView(content);
+        content.setSignedUrl(mediaUrlSigner.sign(content.getFilename(), contentId, userId));
         return content;
     }
 
@@ -172,44 +262,57 @@ public class ContentService {
      * @param reason    Reason for moderation
      * @throws ResourceNotFoundException if content does not exist
      */
+    @Transactional
     public void moderateContent(UUID contentId, String reason) {
         Content content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Content not found with ID: " + contentId));
 
+        boolean firstModeration = !Boolean.TRUE.equals(content.getModerated());
+
         content.setModerated(true);
         content.setModerationReason(reason);
         contentRepository.save(content);
+
+        if (firstModeration) {
+            creatorStatsService.recordModeration(content);
+        }
+        creatorFeedCache.invalidate(content.getCreatorId());
     }
 
     /**
-     * Deletes content by ID from the database.
-     * (Optionally extendable to delete from S3/local filesystem)
+     * Deletes content by ID from the database, and its file from storage once the deletion commits.
      *
      * @param contentId UUID of the content
      * @throws ResourceNotFoundException if content is not found
      */
+    @Transactional
     public void deleteContentById(UUID contentId) {
         Content content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Content not found with id: " + contentId));
 
-        // Optional: Delete file from S3/local folder if needed
-        // amazonS3.deleteObject(bucketName, content.getFileUrl());
-
         contentRepository.deleteById(contentId);
+        creatorStatsService.recordDelete(content);
+        viewCounterService.forget(contentId);
+        creatorFeedCache.invalidate(content.getCreatorId());
+
+        String filename = content.getFilename();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mediaStorage.delete(filename);
+            }
+        });
     }
 
     /**
-     * Ensures the /uploads directory exists; creates it if missing.
+     * Loads a stored file.
      *
-     * @return File object pointing to the upload directory
+     * @param filename stored filename
+     * @return readable file resource
+     * @throws ResourceNotFoundException if the file does not exist
      */
-    private File ensureUploadDir() {
-        String baseDir = System.getProperty("user.dir") + "/uploads/";
-        File uploadFolder = new File(baseDir);
-        if (!uploadFolder.exists()) {
-            uploadFolder.mkdirs();
-        }
-        return uploadFolder;
+    public Resource loadFile(String filename) {
+        return mediaStorage.load(filename);
     }
 
 
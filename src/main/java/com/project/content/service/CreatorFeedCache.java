@@ -0,0 +1,188 @@
+package com.project.content.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Byte-bounded cache of already-serialized public creator feeds.
+ * <p>
+ * Entries hold the encoded JSON (and a gzip copy for larger bodies) so a hit needs
+ * neither a DB query nor Jackson. Writes for a creator invalidate all of its pages
+ * after the writing transaction commits; a per-creator generation stripe stops a
+ * reader that loaded data before the commit from caching stale bytes afterwards.
+ */
+@Service
+public class CreatorFeedCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ConcurrentMap<FeedKey, CachedFeed> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final long maxBytes;
+    private final int gzipMinBytes;
+
+    public CreatorFeedCache(@Value("${feed-cache.max-bytes:67108864}") long maxBytes,
+                            @Value("${feed-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.maxBytes = maxBytes;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * Cache key: creator plus page coordinates (page is null for the unpaged feed).
+     */
+    public record FeedKey(Long creatorId, Integer page, int size) {
+    }
+
+    /**
+     * Encoded feed body, optionally with a gzip-compressed copy.
+     */
+    public static final class CachedFeed {
+        private final byte[] json;
+        private final byte[] gzip;
+        private volatile long lastAccess;
+
+        CachedFeed(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+            this.lastAccess = System.nanoTime();
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return gzip-compressed body, or null if the body was too small to bother
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        long sizeInBytes() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    /**
+     * @return cached feed or null on a miss
+     */
+    public CachedFeed get(FeedKey key) {
+        CachedFeed feed = entries.get(key);
+        if (feed != null) {
+            feed.lastAccess = System.nanoTime();
+        }
+        return feed;
+    }
+
+    /**
+     * Current generation for a creator; pass it to {@link #put} after loading the feed.
+     */
+    public long generation(Long creatorId) {
+        return generations.get(stripe(creatorId));
+    }
+
+    /**
+     * Encodes and caches a feed unless the creator was invalidated since {@code generation} was read.
+     *
+     * @return the cached entry (also returned when it could not be stored)
+     */
+    public CachedFeed put(FeedKey key, byte[] json, long generation) {
+        CachedFeed feed = new CachedFeed(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        if (feed.sizeInBytes() > maxBytes || generation(key.creatorId()) != generation) {
+            return feed;
+        }
+
+        CachedFeed previous = entries.put(key, feed);
+        totalBytes.addAndGet(feed.sizeInBytes() - (previous != null ? previous.sizeInBytes() : 0));
+
+        // An invalidation may have run between the generation check and the put
+        if (generation(key.creatorId()) != generation) {
+            remove(key, feed);
+        }
+        if (totalBytes.get() > maxBytes) {
+            evict();
+        }
+        return feed;
+    }
+
+    /**
+     * Drops every cached page of a creator once the current transaction commits
+     * (immediately if there is no transaction).
+     */
+    public void invalidate(Long creatorId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(creatorId);
+                }
+            });
+        } else {
+            invalidateNow(creatorId);
+        }
+    }
+
+    private void invalidateNow(Long creatorId) {
+        generations.incrementAndGet(stripe(creatorId));
+        for (Map.Entry<FeedKey, CachedFeed> entry : entries.entrySet()) {
+            if (entry.getKey().creatorId().equals(creatorId)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes least recently used entries until the cache is at 90% of its budget.
+     */
+    private synchronized void evict() {
+        long target = maxBytes - maxBytes / 10;
+        if (totalBytes.get() <= target) {
+            return;
+        }
+        List<Map.Entry<FeedKey, CachedFeed>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (Map.Entry<FeedKey, CachedFeed> entry : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void remove(FeedKey key, CachedFeed feed) {
+        if (entries.remove(key, feed)) {
+            totalBytes.addAndGet(-feed.sizeInBytes());
+        }
+    }
+
+    private static int stripe(Long creatorId) {
+        return (Long.hashCode(creatorId) & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
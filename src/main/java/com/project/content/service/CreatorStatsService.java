@@ -0,0 +1,97 @@
+package com.project.content.service;
+
+import com.project.content.entity.Content;
+import com.project.content.entity.CreatorStats;
+import com.project.content.enums.ContentType;
+import com.project.content.enums.Visibility;
+import com.project.content.repository.CreatorStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Maintains per-creator content counters so dashboards can read them in O(1)
+ * instead of loading and aggregating every post.
+ * <p>
+ * The record* methods must run inside the caller's transaction so the counters
+ * commit (or roll back) together with the content change. A periodic job
+ * recomputes everything from the contents table to correct any drift.
+ */
+@Slf4j
+@Service
+public class CreatorStatsService {
+
+    private final CreatorStatsRepository creatorStatsRepository;
+
+    public CreatorStatsService(CreatorStatsRepository creatorStatsRepository) {
+        this.creatorStatsRepository = creatorStatsRepository;
+    }
+
+    /**
+     * Returns counters for a creator; a creator without content gets all zeros.
+     *
+     * @param creatorId creator's user ID
+     * @return creator statistics
+     */
+    @Transactional(readOnly = true)
+    public CreatorStats getStats(Long creatorId) {
+        return creatorStatsRepository.findById(creatorId)
+                .orElseGet(() -> CreatorStats.builder()
+                        .creatorId(creatorId)
+                        .totalPrice(BigDecimal.ZERO)
+                        .build());
+    }
+
+    /**
+     * Counts a newly uploaded content.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpload(Content content) {
+        applyDelta(content, 1);
+    }
+
+    /**
+     * Removes a deleted content from the counters.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDelete(Content content) {
+        applyDelta(content, -1);
+    }
+
+    /**
+     * Counts a content that has just been moderated for the first time.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordModeration(Content content) {
+        creatorStatsRepository.applyDelta(content.getCreatorId(), 0, 0, 0, 1, BigDecimal.ZERO);
+    }
+
+    /**
+     * Recomputes all counters from the contents table.
+     * Updates committed while this runs are picked up by the next run.
+     */
+    @Scheduled(fixedDelayString = "${creator-stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${creator-stats.reconcile-initial-delay-ms:60000}")
+    @Transactional
+    public void reconcile() {
+        int updated = creatorStatsRepository.reconcileFromContents();
+        int removed = creatorStatsRepository.deleteOrphans();
+        log.info("Creator stats reconciled: {} creators updated, {} removed", updated, removed);
+    }
+
+    private void applyDelta(Content content, int sign) {
+        long publicDelta = content.getVisibility() == Visibility.PUBLIC ? sign : 0;
+        long privateDelta = content.getVisibility() == Visibility.PRIVATE ? sign : 0;
+        // paid follows the content type, as enforced by ContentService.getContentById
+        long paidDelta = content.getContentType() == ContentType.PAID ? sign : 0;
+        long moderatedDelta = Boolean.TRUE.equals(content.getModerated()) ? sign : 0;
+        BigDecimal price = content.getPrice() != null ? content.getPrice() : BigDecimal.ZERO;
+
+        creatorStatsRepository.applyDelta(content.getCreatorId(), publicDelta, privateDelta, paidDelta,
+                moderatedDelta, sign > 0 ? price : price.negate());
+    }
+}
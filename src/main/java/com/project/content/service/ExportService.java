@@ -0,0 +1,99 @@
+package com.project.content.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.content.entity.Content;
+import com.project.content.entity.Report;
+import com.project.content.repository.ContentRepository;
+import com.project.content.repository.ReportRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams content and reports as NDJSON (one JSON object per line) in constant memory.
+ * <p>
+ * Rows are read through repository streams with a JDBC fetch size, detached right after
+ * being written, and flushed in chunks. Writes block while the client is slow to read,
+ * which throttles the database cursor. Rows are ordered by id so an interrupted export can
+ * resume by passing the last id received as the {@code after} cursor.
+ */
+@Service
+public class ExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final UUID START_CURSOR = new UUID(0L, 0L);
+
+    private final ContentRepository contentRepository;
+    private final ReportRepository reportRepository;
+    private final ObjectWriter rowWriter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExportService(ContentRepository contentRepository, ReportRepository reportRepository,
+                         ObjectMapper objectMapper) {
+        this.contentRepository = contentRepository;
+        this.reportRepository = reportRepository;
+        this.rowWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes a creator's content as NDJSON.
+     *
+     * @param creatorId creator's user ID
+     * @param after     keyset cursor (last id already received), or null to start from the beginning
+     * @param out       destination stream
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportCreatorContent(Long creatorId, UUID after, OutputStream out) throws IOException {
+        try (Stream<Content> rows = contentRepository.streamByCreatorIdAndIdGreaterThanOrderByIdAsc(
+                creatorId, after != null ? after : START_CURSOR)) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    /**
+     * Writes all reports as NDJSON.
+     *
+     * @param after keyset cursor (last id already received), or null to start from the beginning
+     * @param out   destination stream
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportReports(UUID after, OutputStream out) throws IOException {
+        try (Stream<Report> rows = reportRepository.streamByIdGreaterThanOrderByIdAsc(
+                after != null ? after : START_CURSOR)) {
+            return writeNdjson(rows, out);
+        }
+    }
+
+    private <T> long writeNdjson(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            rowWriter.writeValue(out, row);
+            out.write('\n');
+            entityManager.detach(row);
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.content.service;
+
+import com.project.content.exception.ResourceNotFoundException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Stores every upload as its own file in the upload directory.
+ */
+public class LocalMediaStorage implements MediaStorage {
+
+    private final Path baseDir;
+
+    public LocalMediaStorage(Path baseDir) {
+        this.baseDir = baseDir.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void store(String filename, MultipartFile file) throws IOException {
+        file.transferTo(resolve(filename).toFile());
+    }
+
+    @Override
+    public Resource load(String filename) {
+        Path file = resolve(filename);
+        if (!file.toFile().isFile()) {
+            throw new ResourceNotFoundException("File not found: " + filename);
+        }
+        return new FileSystemResource(file);
+    }
+
+    @Override
+    public void delete(String filename) {
+        try {
+            Files.deleteIfExists(resolve(filename));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resolves a filename inside the upload directory, creating the directory if missing.
+     */
+    private Path resolve(String filename) {
+        File uploadFolder = baseDir.toFile();
+        if (!uploadFolder.exists()) {
+            uploadFolder.mkdirs();
+        }
+        Path file = baseDir.resolve(filename).normalize();
+        if (!file.startsWith(baseDir)) {
+            throw new ResourceNotFoundException("File not found: " + filename);
+        }
+        return file;
+    }
+}
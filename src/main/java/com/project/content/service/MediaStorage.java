@@ -0,0 +1,46 @@
+package com.project.content.service;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Storage backend for uploaded media files, selected with {@code storage.mode}.
+ * Closed by the container on shutdown.
+ */
+public interface MediaStorage extends Closeable {
+
+    /**
+     * Stores an uploaded file under the given name.
+     *
+     * @param filename unique stored filename
+     * @param file     uploaded file
+     * @throws IOException if the file cannot be written
+     */
+    void store(String filename, MultipartFile file) throws IOException;
+
+    /**
+     * Loads a stored file.
+     *
+     * @param filename stored filename
+     * @return readable resource
+     * @throws com.project.content.exception.ResourceNotFoundException if the file does not exist
+     */
+    Resource load(String filename);
+
+    /**
+     * Deletes a stored file; missing files are ignored.
+     *
+     * @param filename stored filename
+     */
+    void delete(String filename);
+
+    /**
+     * Releases resources held by the backend; no-op by default.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
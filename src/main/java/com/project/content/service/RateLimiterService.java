@@ -0,0 +1,81 @@
+package com.project.content.service;
+
+import com.project.content.config.RateLimitProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps per-key token buckets (one per endpoint and principal/IP) and evicts idle ones.
+ * <p>
+ * Buckets live in a {@link ConcurrentHashMap}, whose lookups are lock-free and whose
+ * inserts only lock a single bin, so unrelated clients never contend with each other.
+ */
+@Service
+public class RateLimiterService {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+
+    public RateLimiterService(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Takes one token from every bucket in {@code keys}, or from none of them.
+     * <p>
+     * All buckets are checked before any token is consumed, so a request rejected by one
+     * bucket (e.g. its IP) does not burn a token in another (e.g. its user). If a concurrent
+     * request wins a race in between, tokens already taken are refunded.
+     *
+     * @param keys  bucket keys, e.g. "upload|user:alice" and "upload|ip:10.0.0.1"
+     * @param limit limit to apply to each bucket
+     * @return 0 if allowed, otherwise the number of seconds the client should wait
+     */
+    public long tryAcquire(List<String> keys, RateLimitProperties.Endpoint limit) {
+        long now = System.nanoTime();
+        long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, limit.getRefillPerMinute());
+        long tolerance = interval * (Math.max(1, limit.getCapacity()) - 1);
+
+        List<TokenBucket> selected = new ArrayList<>(keys.size());
+        long waitNanos = 0;
+        for (String key : keys) {
+            TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+            selected.add(bucket);
+            waitNanos = Math.max(waitNanos, bucket.peek(now, tolerance));
+        }
+        if (waitNanos > 0) {
+            return toRetryAfterSeconds(waitNanos);
+        }
+
+        for (int i = 0; i < selected.size(); i++) {
+            waitNanos = selected.get(i).tryAcquire(now, interval, tolerance);
+            if (waitNanos > 0) {
+                for (int j = 0; j < i; j++) {
+                    selected.get(j).refund(interval);
+                }
+                return toRetryAfterSeconds(waitNanos);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes buckets that have been fully refilled for longer than the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${ratelimit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+}
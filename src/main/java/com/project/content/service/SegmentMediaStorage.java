@@ -0,0 +1,498 @@
+package com.project.content.service;
+
+import com.project.content.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Packs small uploads into large append-only segment files instead of one file per upload.
+ * <p>
+ * Record layout: {@code magic(4) type(1) keyLength(2) key dataLength(4) data crc32(4)}.
+ * An in-memory index maps each filename to (segment, offset, length) and is snapshotted to
+ * {@code index.dat}; on restart the snapshot is loaded and only records appended after its
+ * checkpoint are replayed. Reads are single positional reads. Deletes append a tombstone,
+ * and a background compactor rewrites mostly-dead sealed segments into the active one.
+ * <p>
+ * Files larger than {@code maxBlobBytes} are handed to the fallback storage.
+ * Appends and deletes are serialized on this instance; reads are lock-free. Compaction and snapshots
+ * are serialized on a separate maintenance lock and only take the instance lock for short steps
+ * (one moved blob, one index copy), so uploads are not stalled while they run.
+ * A channel closed because a reading or writing thread was interrupted is reopened on next use,
+ * so one interrupted request cannot break access to a segment for everyone else.
+ */
+@Slf4j
+public class SegmentMediaStorage implements MediaStorage {
+
+    private static final int RECORD_MAGIC = 0x5E6B10B5;
+    private static final int INDEX_MAGIC = 0x5E61DE85;
+    private static final int INDEX_VERSION = 1;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_BYTES = 4 + 1 + 2;
+    private static final String INDEX_FILE = "index.dat";
+
+    /**
+     * Position of a blob's data inside a segment.
+     */
+    record Location(int segmentId, long offset, int length) {
+    }
+
+    private final Path dir;
+    private final long maxSegmentBytes;
+    private final int maxBlobBytes;
+    private final double compactionThreshold;
+    private final MediaStorage fallback;
+
+    private final ConcurrentMap<String, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, FileChannel> segments = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> liveBytes = new HashMap<>();
+
+    private final Object maintenanceLock = new Object();
+
+    private int activeId;
+    private long activeSize;
+    private long appends;
+    private long appendsAtSnapshot;
+    private boolean closed;
+
+    public SegmentMediaStorage(Path dir, long maxSegmentBytes, int maxBlobBytes,
+                               double compactionThreshold, MediaStorage fallback) throws IOException {
+        this.dir = dir.toAbsolutePath().normalize();
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxBlobBytes = maxBlobBytes;
+        this.compactionThreshold = compactionThreshold;
+        this.fallback = fallback;
+        open();
+    }
+
+    @Override
+    public void store(String filename, MultipartFile file) throws IOException {
+        if (file.getSize() > maxBlobBytes) {
+            fallback.store(filename, file);
+            return;
+        }
+        byte[] data = file.getBytes();
+        synchronized (this) {
+            Location location = append(PUT, filename, data);
+            track(index.put(filename, location), location);
+        }
+    }
+
+    @Override
+    public Resource load(String filename) {
+        Location location = index.get(filename);
+        if (location == null) {
+            return fallback.load(filename);
+        }
+        byte[] data = read(filename, location);
+        return new ByteArrayResource(data) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+    }
+
+    @Override
+    public void delete(String filename) {
+        synchronized (this) {
+            Location old = index.remove(filename);
+            if (old != null) {
+                try {
+                    append(DELETE, filename, new byte[0]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                track(old, null);
+                return;
+            }
+        }
+        fallback.delete(filename);
+    }
+
+    /**
+     * Rewrites sealed segments whose live data fell below the compaction threshold,
+     * then snapshots the index and removes the old segment files.
+     * Blobs are moved one at a time so appends can interleave with the copy.
+     */
+    @Scheduled(fixedDelayString = "${storage.segments.compaction-interval-ms:300000}")
+    public void compact() throws IOException {
+        synchronized (maintenanceLock) {
+            List<Integer> candidates = new ArrayList<>();
+            synchronized (this) {
+                for (int id : new ArrayList<>(segments.keySet())) {
+                    long size = channel(id).size();
+                    if (id != activeId && liveBytes.getOrDefault(id, 0L) < size * compactionThreshold) {
+                        candidates.add(id);
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (!candidates.contains(location.segmentId())) {
+                    continue;
+                }
+                // candidate segments are sealed, so the copy can be read without the lock
+                byte[] data = readFully(channel(location.segmentId()), location.offset(), location.length());
+                synchronized (this) {
+                    // skip blobs deleted or overwritten while they were being read
+                    if (!location.equals(index.get(entry.getKey()))) {
+                        continue;
+                    }
+                    Location moved = append(PUT, entry.getKey(), data);
+                    index.put(entry.getKey(), moved);
+                    track(location, moved);
+                }
+            }
+
+            // the snapshot must not point into the segments about to be removed
+            snapshot(true);
+
+            synchronized (this) {
+                for (int id : candidates) {
+                    segments.remove(id).close();
+                    liveBytes.remove(id);
+                }
+            }
+            for (int id : candidates) {
+                Files.deleteIfExists(segmentPath(id));
+            }
+            log.info("Compacted segments {}", candidates);
+        }
+    }
+
+    /**
+     * Persists the index so restarts only replay records appended since the snapshot.
+     * Skipped when nothing was appended since the last snapshot.
+     */
+    @Scheduled(fixedDelayString = "${storage.segments.snapshot-interval-ms:60000}")
+    public void writeSnapshot() throws IOException {
+        snapshot(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (maintenanceLock) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            snapshot(false);
+            synchronized (this) {
+                closed = true;
+                for (FileChannel channel : segments.values()) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the index and its checkpoint under the instance lock, then writes them without it.
+     */
+    private void snapshot(boolean force) throws IOException {
+        synchronized (maintenanceLock) {
+            Map<String, Location> copy;
+            int checkpointSegment;
+            long checkpointOffset;
+            long seen;
+            synchronized (this) {
+                seen = appends;
+                if (!force && seen == appendsAtSnapshot) {
+                    return;
+                }
+                copy = new HashMap<>(index);
+                checkpointSegment = activeId;
+                checkpointOffset = activeSize;
+            }
+
+            Path tmp = dir.resolve(INDEX_FILE + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeInt(checkpointSegment);
+                out.writeLong(checkpointOffset);
+                out.writeInt(copy.size());
+                for (Map.Entry<String, Location> entry : copy.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().segmentId());
+                    out.writeLong(entry.getValue().offset());
+                    out.writeInt(entry.getValue().length());
+                }
+            }
+            // records up to the checkpoint must be durable before the snapshot refers to them
+            channel(checkpointSegment).force(false);
+            Files.move(tmp, dir.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            appendsAtSnapshot = seen;
+        }
+    }
+
+    /**
+     * Opens existing segments, loads the index snapshot and replays the tail after its checkpoint.
+     */
+    private synchronized void open() throws IOException {
+        Files.createDirectories(dir);
+
+        TreeMap<Integer, Path> existing = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith("segment-") && name.endsWith(".dat")) {
+                    existing.put(Integer.parseInt(name.substring(8, name.length() - 4)), path);
+                }
+            });
+        }
+        for (Map.Entry<Integer, Path> entry : existing.entrySet()) {
+            segments.put(entry.getKey(), FileChannel.open(entry.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        int checkpointSegment = 0;
+        long checkpointOffset = 0;
+        Path indexFile = dir.resolve(INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                    throw new IOException("Unrecognized segment index " + indexFile);
+                }
+                checkpointSegment = in.readInt();
+                checkpointOffset = in.readLong();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    String key = in.readUTF();
+                    Location location = new Location(in.readInt(), in.readLong(), in.readInt());
+                    if (segments.containsKey(location.segmentId())) {
+                        index.put(key, location);
+                    }
+                }
+            }
+        }
+
+        for (int id : existing.keySet()) {
+            if (id < checkpointSegment) {
+                continue;
+            }
+            long start = id == checkpointSegment ? checkpointOffset : 0;
+            long validEnd = replay(id, start);
+            if (validEnd > start) {
+                // the replayed tail is not in the snapshot yet
+                appends++;
+            }
+            if (id == existing.lastKey() && validEnd < segments.get(id).size()) {
+                log.warn("Truncating torn tail of segment {} at {}", id, validEnd);
+                segments.get(id).truncate(validEnd);
+            }
+        }
+
+        if (existing.isEmpty()) {
+            openSegment(1);
+        } else {
+            activeId = existing.lastKey();
+            activeSize = segments.get(activeId).size();
+        }
+
+        for (Location location : index.values()) {
+            liveBytes.merge(location.segmentId(), (long) location.length(), Long::sum);
+        }
+        log.info("Segment storage opened: {} segments, {} blobs", segments.size(), index.size());
+    }
+
+    /**
+     * Applies the records of one segment to the index, starting at {@code position}.
+     *
+     * @return offset just after the last valid record
+     */
+    private long replay(int segmentId, long position) throws IOException {
+        FileChannel channel = segments.get(segmentId);
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            if (header.getInt() != RECORD_MAGIC) {
+                break;
+            }
+            byte type = header.get();
+            int keyLength = Short.toUnsignedInt(header.getShort());
+            long keyOffset = position + HEADER_BYTES;
+            if (keyOffset + keyLength + 4 > size) {
+                break;
+            }
+            String key = new String(readFully(channel, keyOffset, keyLength), StandardCharsets.UTF_8);
+            int dataLength = ByteBuffer.wrap(readFully(channel, keyOffset + keyLength, 4)).getInt();
+            long dataOffset = keyOffset + keyLength + 4;
+            long end = dataOffset + dataLength + 4;
+            if (dataLength < 0 || end > size) {
+                break;
+            }
+            byte[] data = readFully(channel, dataOffset, dataLength);
+            int crc = ByteBuffer.wrap(readFully(channel, dataOffset + dataLength, 4)).getInt();
+            if (crc != crc32(data)) {
+                break;
+            }
+
+            if (type == PUT) {
+                index.put(key, new Location(segmentId, dataOffset, dataLength));
+            } else if (type == DELETE) {
+                index.remove(key);
+            }
+            position = end;
+        }
+        return position;
+    }
+
+    /**
+     * Appends one record to the active segment, rotating to a new segment when it is full.
+     * Callers hold the instance lock.
+     */
+    private Location append(byte type, String key, byte[] data) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int recordLength = HEADER_BYTES + keyBytes.length + 4 + data.length + 4;
+        if (activeSize > 0 && activeSize + recordLength > maxSegmentBytes) {
+            channel(activeId).force(false);
+            openSegment(activeId + 1);
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(recordLength);
+        record.putInt(RECORD_MAGIC)
+                .put(type)
+                .putShort((short) keyBytes.length)
+                .put(keyBytes)
+                .putInt(data.length)
+                .put(data)
+                .putInt(crc32(data))
+                .flip();
+
+        FileChannel channel = channel(activeId);
+        long position = activeSize;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+
+        Location location = new Location(activeId, activeSize + HEADER_BYTES + keyBytes.length + 4, data.length);
+        activeSize = position;
+        appends++;
+        return location;
+    }
+
+    private void openSegment(int id) throws IOException {
+        segments.put(id, FileChannel.open(segmentPath(id),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        activeId = id;
+        activeSize = 0;
+    }
+
+    /**
+     * Returns the channel of a segment, reopening it if an interrupted thread closed it.
+     *
+     * @return open channel, or null if the segment was removed by compaction
+     */
+    private FileChannel channel(int segmentId) throws IOException {
+        FileChannel channel = segments.get(segmentId);
+        if (channel == null || channel.isOpen()) {
+            return channel;
+        }
+        synchronized (this) {
+            channel = segments.get(segmentId);
+            if (channel != null && !channel.isOpen() && !closed) {
+                channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                segments.put(segmentId, channel);
+                log.warn("Reopened segment {} after its channel was closed", segmentId);
+            }
+            return channel;
+        }
+    }
+
+    /**
+     * Reads a blob, retrying when its channel was closed underneath it
+     * (moved by compaction, or closed by another thread's interrupt).
+     */
+    private byte[] read(String filename, Location location) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                FileChannel channel = channel(location.segmentId());
+                if (channel != null) {
+                    return readFully(channel, location.offset(), location.length());
+                }
+            } catch (ClosedByInterruptException e) {
+                // this thread was interrupted; the channel is reopened by the next caller
+                throw new UncheckedIOException(e);
+            } catch (ClosedChannelException e) {
+                // closed by compaction or by another thread's interrupt, look the blob up again
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            location = index.get(filename);
+            if (location == null) {
+                break;
+            }
+        }
+        throw new ResourceNotFoundException("File not found: " + filename);
+    }
+
+    /**
+     * Updates live byte counts when a blob moves from {@code from} to {@code to} (either may be null).
+     */
+    private void track(Location from, Location to) {
+        if (from != null) {
+            liveBytes.merge(from.segmentId(), (long) -from.length(), Long::sum);
+        }
+        if (to != null) {
+            liveBytes.merge(to.segmentId(), (long) to.length(), Long::sum);
+        }
+    }
+
+    private Path segmentPath(int id) {
+        return dir.resolve(String.format("segment-%06d.dat", id));
+    }
+
+    private static byte[] readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+        }
+        return buffer.array();
+    }
+
+    private static int crc32(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.content.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm (GCRA).
+ * <p>
+ * The whole bucket state is a single "theoretical arrival time" (TAT) updated by CAS,
+ * so acquiring a token never blocks and needs no per-bucket lock.
+ */
+class TokenBucket {
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    TokenBucket(long now) {
+        this.theoreticalArrivalTime = new AtomicLong(now);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param now             current time in nanoseconds
+     * @param intervalNanos   time needed to refill one token
+     * @param toleranceNanos  burst tolerance, i.e. (capacity - 1) * interval
+     * @return 0 if the token was granted, otherwise nanoseconds until one is available
+     */
+    long tryAcquire(long now, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long start = Math.max(tat, now);
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns how long a caller would have to wait for a token, without taking one.
+     *
+     * @return 0 if a token is available now, otherwise nanoseconds until one is
+     */
+    long peek(long now, long toleranceNanos) {
+        return Math.max(0, Math.max(theoreticalArrivalTime.get(), now) - now - toleranceNanos);
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire}, e.g. when another bucket
+     * guarding the same request rejected it.
+     */
+    void refund(long intervalNanos) {
+        theoreticalArrivalTime.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * A bucket is idle once it has been fully refilled for at least {@code idleNanos};
+     * dropping it is then indistinguishable from keeping it.
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrivalTime.get() > idleNanos;
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.content.service;
+
+import com.project.content.config.UploadAdmissionProperties;
+import com.project.content.exception.UploadRejectedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-node admission control for uploads.
+ * <p>
+ * An upload is admitted when both the in-flight upload count and the in-flight byte budget
+ * have room and the storage and multipart temp volumes stay above the free-space watermark.
+ * Otherwise it waits in a bounded queue until room frees up or the queue timeout expires.
+ */
+@Service
+public class UploadAdmissionService {
+
+    private final UploadAdmissionProperties properties;
+    private final File storageVolume;
+    private final File tempVolume;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private int inFlightUploads;
+    private long inFlightBytes;
+    private int waiting;
+
+    public UploadAdmissionService(UploadAdmissionProperties properties,
+                                  @Value("${storage.upload-dir:${user.dir}/uploads}") Path uploadDir) {
+        this.properties = properties;
+        this.storageVolume = uploadDir.toAbsolutePath().toFile();
+        this.tempVolume = new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Reserves room for one upload, waiting in the queue if necessary.
+     * Every successful call must be paired with {@link #release(long)} using the returned value.
+     *
+     * @param declaredBytes request Content-Length, or -1 if unknown
+     * @return bytes reserved for this upload
+     * @throws UploadRejectedException 429 if the queue is full, 503 on queue timeout or low disk space
+     */
+    public long acquire(long declaredBytes) throws InterruptedException {
+        long bytes = declaredBytes < 0 || declaredBytes > properties.getMaxConcurrentBytes()
+                ? properties.getMaxConcurrentBytes()
+                : declaredBytes;
+
+        lock.lock();
+        try {
+            checkFreeSpace(bytes);
+            if (!fits(bytes)) {
+                if (waiting >= properties.getMaxQueueSize()) {
+                    throw new UploadRejectedException(HttpStatus.TOO_MANY_REQUESTS,
+                            properties.getBusyRetryAfterSeconds(), "Too many uploads in progress, please retry later.");
+                }
+                waiting++;
+                try {
+                    long remaining = properties.getQueueTimeout().toNanos();
+                    while (!fits(bytes)) {
+                        if (remaining <= 0) {
+                            throw new UploadRejectedException(HttpStatus.SERVICE_UNAVAILABLE,
+                                    properties.getBusyRetryAfterSeconds(), "Upload capacity exhausted, please retry later.");
+                        }
+                        remaining = released.awaitNanos(remaining);
+                        // disk may have filled up while this upload was queued
+                        checkFreeSpace(bytes);
+                    }
+                } finally {
+                    waiting--;
+                }
+            }
+            inFlightUploads++;
+            inFlightBytes += bytes;
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns room reserved by {@link #acquire(long)}.
+     *
+     * @param bytes value returned by acquire
+     */
+    public void release(long bytes) {
+        lock.lock();
+        try {
+            inFlightUploads--;
+            inFlightBytes -= bytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(long bytes) {
+        return inFlightUploads < properties.getMaxConcurrentUploads()
+                && (inFlightUploads == 0 || inFlightBytes + bytes <= properties.getMaxConcurrentBytes());
+    }
+
+    /**
+     * Rejects the upload if it, together with the uploads already in flight,
+     * would push the storage or temp volume below the free-space watermark.
+     * Callers hold the lock.
+     */
+    private void checkFreeSpace(long bytes) {
+        long required = inFlightBytes + bytes + properties.getMinFreeBytes();
+        if ((storageVolume.exists() && storageVolume.getUsableSpace() < required)
+                || tempVolume.getUsableSpace() < required) {
+            throw new UploadRejectedException(HttpStatus.SERVICE_UNAVAILABLE,
+                    properties.getLowDiskRetryAfterSeconds(), "Storage is nearly full, please retry later.");
+        }
+    }
+}
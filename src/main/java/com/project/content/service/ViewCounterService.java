@@ -0,0 +1,232 @@
+package com.project.content.service;
+
+import com.project.content.dto.TrendingContentDto;
+import com.project.content.entity.Content;
+import com.project.content.enums.Visibility;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts content views in memory and flushes them to the content_view_counts table
+ * in periodic batched upserts, so the read path never writes to the database.
+ * <p>
+ * Each flush also feeds an exponentially decayed popularity score per public content;
+ * the top-K by score is kept as an immutable snapshot served by {@link #getTrending}.
+ * Counts are best effort: a view landing on an idle counter while it is being dropped may be lost.
+ * Rows of deleted content that a concurrent flush upserts again are removed by {@link #pruneOrphans}.
+ */
+@Slf4j
+@Service
+public class ViewCounterService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO content_view_counts (content_id, view_count, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (content_id) DO UPDATE SET
+                view_count = content_view_counts.view_count + EXCLUDED.view_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String PRUNE_SQL = """
+            DELETE FROM content_view_counts v
+            WHERE NOT EXISTS (SELECT 1 FROM contents c WHERE c.id = v.content_id)
+            """;
+
+    private static final double MIN_SCORE = 0.01;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final ConcurrentMap<UUID, PendingViews> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Double> scores = new ConcurrentHashMap<>();
+    private final int topK;
+    private final double halfLifeNanos;
+
+    private volatile List<TrendingContentDto> trending = List.of();
+    private long lastDecayAt = System.nanoTime();
+
+    public ViewCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              @Value("${trending.top-k:100}") int topK,
+                              @Value("${trending.half-life-minutes:60}") long halfLifeMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.topK = topK;
+        this.halfLifeNanos = halfLifeMinutes * 60_000_000_000.0;
+    }
+
+    /**
+     * Views accumulated for one content since the last flush.
+     */
+    private static final class PendingViews {
+        private final LongAdder views = new LongAdder();
+        private final boolean trendable;
+
+        private PendingViews(boolean trendable) {
+            this.trendable = trendable;
+        }
+    }
+
+    /**
+     * Records one view. Only PUBLIC content takes part in trending.
+     *
+     * @param content viewed content
+     */
+    public void recordView(Content content) {
+        pending.computeIfAbsent(content.getId(), id -> new PendingViews(content.getVisibility() == Visibility.PUBLIC))
+                .views.increment();
+    }
+
+    /**
+     * Records one file download. Downloads are counted but do not feed trending,
+     * since the file path does not know the content's visibility.
+     *
+     * @param contentId downloaded content UUID
+     */
+    public void recordDownload(UUID contentId) {
+        pending.computeIfAbsent(contentId, id -> new PendingViews(false)).views.increment();
+    }
+
+    /**
+     * Drops counters, trending score and stored count of a deleted content once the current
+     * transaction commits (immediately if there is no transaction), so views recorded until
+     * the delete is visible are dropped as well.
+     *
+     * @param contentId content UUID
+     */
+    public void forget(UUID contentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forgetNow(contentId);
+                }
+            });
+        } else {
+            forgetNow(contentId);
+        }
+    }
+
+    private void forgetNow(UUID contentId) {
+        pending.remove(contentId);
+        scores.remove(contentId);
+        try {
+            // the original transaction has already committed, so the delete needs its own
+            newTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.update("DELETE FROM content_view_counts WHERE content_id = ?", contentId));
+        } catch (DataAccessException e) {
+            log.warn("Could not delete view count of {}, left for pruning: {}", contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes view count rows whose content no longer exists. A flush that was already running
+     * when a content was deleted can upsert its row again after {@link #forget} removed it.
+     */
+    @Scheduled(fixedDelayString = "${views.prune-interval-ms:3600000}")
+    public void pruneOrphans() {
+        int removed = jdbcTemplate.update(PRUNE_SQL);
+        if (removed > 0) {
+            log.info("Pruned {} view count rows of deleted content", removed);
+        }
+    }
+
+    /**
+     * Returns the current trending snapshot.
+     *
+     * @param limit maximum number of entries (at most the configured top-K)
+     * @return content IDs ordered by decayed view score, highest first
+     */
+    public List<TrendingContentDto> getTrending(int limit) {
+        List<TrendingContentDto> snapshot = trending;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    /**
+     * Writes accumulated views in one JDBC batch and refreshes the trending snapshot.
+     */
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<PendingViews> flushed = new ArrayList<>();
+        Map<UUID, Long> trendingDeltas = new HashMap<>();
+
+        for (Map.Entry<UUID, PendingViews> entry : pending.entrySet()) {
+            PendingViews counter = entry.getValue();
+            long views = counter.views.sumThenReset();
+            if (views == 0) {
+                // idle for a whole interval
+                pending.remove(entry.getKey(), counter);
+                continue;
+            }
+            batch.add(new Object[]{entry.getKey(), views});
+            flushed.add(counter);
+            if (counter.trendable) {
+                trendingDeltas.put(entry.getKey(), views);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            } catch (DataAccessException e) {
+                // put the views back so the next flush retries them
+                for (int i = 0; i < batch.size(); i++) {
+                    flushed.get(i).views.add((Long) batch.get(i)[1]);
+                }
+                log.warn("View counter flush failed, {} counters will be retried: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        updateTrending(trendingDeltas);
+    }
+
+    /**
+     * Decays all scores by the time since the last flush, adds new views and rebuilds the top-K.
+     */
+    private void updateTrending(Map<UUID, Long> deltas) {
+        long now = System.nanoTime();
+        double decay = Math.pow(0.5, (now - lastDecayAt) / halfLifeNanos);
+        lastDecayAt = now;
+
+        scores.replaceAll((id, score) -> score * decay);
+        deltas.forEach((id, views) -> scores.merge(id, views.doubleValue(), Double::sum));
+        scores.values().removeIf(score -> score < MIN_SCORE);
+
+        PriorityQueue<Map.Entry<UUID, Double>> heap = new PriorityQueue<>(Map.Entry.<UUID, Double>comparingByValue());
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            if (heap.size() < topK) {
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        List<TrendingContentDto> top = new ArrayList<>(heap.size());
+        for (Map.Entry<UUID, Double> entry : heap) {
+            top.add(new TrendingContentDto(entry.getKey(), entry.getValue()));
+        }
+        top.sort(Comparator.comparingDouble(TrendingContentDto::getScore).reversed());
+        trending = List.copyOf(top);
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.content.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.content.service.RateLimiterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter;
+
+    RateLimitFilterTest() {
+        RateLimitProperties.Endpoint upload = new RateLimitProperties.Endpoint();
+        upload.setPath("/api/content/upload");
+        upload.setMethod("POST");
+        upload.setCapacity(1);
+        upload.setRefillPerMinute(1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put("upload", upload);
+
+        filter = new RateLimitFilter(properties, new RateLimiterService(properties),
+                new ErrorResponseWriter(new ObjectMapper().findAndRegisterModules()));
+    }
+
+    @Test
+    void rejectsOnceBucketIsEmpty() throws Exception {
+        assertEquals(200, send("/api/content/upload").getStatus());
+
+        MockHttpServletResponse rejected = send("/api/content/upload");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    void percentEncodedPathSharesTheSameBucket() throws Exception {
+        assertEquals(200, send("/api/content/upload").getStatus());
+
+        assertEquals(429, send("/api/content/%75pload").getStatus());
+        assertEquals(429, send("/api/content/upload;jsessionid=x").getStatus());
+    }
+
+    @Test
+    void otherPathsAreNotThrottled() throws Exception {
+        assertEquals(200, send("/api/content/upload").getStatus());
+
+        assertEquals(200, send("/api/content/report").getStatus());
+    }
+
+    private MockHttpServletResponse send(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
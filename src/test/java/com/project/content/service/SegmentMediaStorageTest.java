@@ -0,0 +1,308 @@
+package com.project.content.service;
+
+import com.project.content.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentMediaStorageTest {
+
+    private static final int MAX_BLOB = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<SegmentMediaStorage> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeAll() throws IOException {
+        for (SegmentMediaStorage storage : opened) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void storesAndLoadsSmallBlobs() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+
+        assertEquals("alpha", read(storage, "a.jpeg"));
+        assertEquals("bravo", read(storage, "b.jpeg"));
+        assertEquals("a.jpeg", storage.load("a.jpeg").getFilename());
+    }
+
+    @Test
+    void largeBlobsGoToFallbackStorage() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        String big = "x".repeat(MAX_BLOB + 1);
+
+        storage.store("big.mp4", file("big.mp4", big));
+
+        assertTrue(Files.exists(tempDir.resolve("big.mp4")));
+        assertEquals(big, read(storage, "big.mp4"));
+    }
+
+    @Test
+    void replaysSegmentsWithoutSnapshot() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+        storage.delete("a.jpeg");
+
+        // simulate a crash: no snapshot written, reopen from segments only
+        SegmentMediaStorage reopened = open(1 << 20);
+
+        assertThrows(ResourceNotFoundException.class, () -> reopened.load("a.jpeg"));
+        assertEquals("bravo", read(reopened, "b.jpeg"));
+    }
+
+    @Test
+    void replaysOnlyTailAfterSnapshot() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+        storage.writeSnapshot();
+        storage.store("c.jpeg", file("c.jpeg", "charlie"));
+        storage.delete("b.jpeg");
+
+        SegmentMediaStorage reopened = open(1 << 20);
+
+        assertEquals("alpha", read(reopened, "a.jpeg"));
+        assertEquals("charlie", read(reopened, "c.jpeg"));
+        assertThrows(ResourceNotFoundException.class, () -> reopened.load("b.jpeg"));
+    }
+
+    @Test
+    void truncatesTornTailAndKeepsAppending() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        Path segment = onlySegment();
+        long validSize = Files.size(segment);
+
+        // half-written record: magic and type only
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x5E, 0x6B, 0x10, (byte) 0xB5, 1}));
+        }
+
+        SegmentMediaStorage reopened = open(1 << 20);
+        assertEquals(validSize, Files.size(segment));
+        assertEquals("alpha", read(reopened, "a.jpeg"));
+
+        reopened.store("b.jpeg", file("b.jpeg", "bravo"));
+        SegmentMediaStorage again = open(1 << 20);
+        assertEquals("alpha", read(again, "a.jpeg"));
+        assertEquals("bravo", read(again, "b.jpeg"));
+    }
+
+    @Test
+    void dropsRecordWithBadChecksum() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+        Path segment = onlySegment();
+
+        // corrupt the last data byte of "bravo" (just before its 4-byte CRC)
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), Files.size(segment) - 5);
+        }
+
+        SegmentMediaStorage reopened = open(1 << 20);
+        assertEquals("alpha", read(reopened, "a.jpeg"));
+        assertThrows(ResourceNotFoundException.class, () -> reopened.load("b.jpeg"));
+    }
+
+    @Test
+    void compactionKeepsLiveBlobsAndTombstonesAcrossRestart() throws IOException {
+        // tiny segments so every couple of records rotates to a new segment
+        SegmentMediaStorage storage = open(128);
+        for (int i = 0; i < 10; i++) {
+            storage.store("f" + i + ".jpeg", file("f" + i + ".jpeg", "payload-" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i % 3 != 0) {
+                storage.delete("f" + i + ".jpeg");
+            }
+        }
+        long segmentsBefore = segmentCount();
+
+        storage.compact();
+
+        assertTrue(segmentCount() < segmentsBefore);
+        assertLiveSet(storage);
+
+        SegmentMediaStorage reopened = open(128);
+        assertLiveSet(reopened);
+    }
+
+    @Test
+    void readsStayCorrectWhileCompacting() throws Exception {
+        SegmentMediaStorage storage = open(256);
+        for (int i = 0; i < 50; i++) {
+            storage.store("f" + i + ".jpeg", file("f" + i + ".jpeg", "payload-" + i));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            storage.delete("f" + i + ".jpeg");
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            results.add(readers.submit(() -> {
+                while (running.get()) {
+                    for (int i = 1; i < 50; i += 2) {
+                        assertEquals("payload-" + i, read(storage, "f" + i + ".jpeg"));
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (int round = 0; round < 20; round++) {
+            storage.compact();
+            storage.store("extra" + round + ".jpeg", file("extra.jpeg", "extra"));
+            storage.delete("extra" + round + ".jpeg");
+        }
+        running.set(false);
+        readers.shutdown();
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        for (Future<?> result : results) {
+            result.get();
+        }
+    }
+
+    @Test
+    void writesDuringCompactionSurviveRestart() throws Exception {
+        SegmentMediaStorage storage = open(256);
+        for (int i = 0; i < 50; i++) {
+            storage.store("f" + i + ".jpeg", file("f" + i + ".jpeg", "payload-" + i));
+        }
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<?> writes = writer.submit(() -> {
+            for (int i = 0; i < 50; i++) {
+                if (i % 2 == 0) {
+                    storage.delete("f" + i + ".jpeg");
+                } else {
+                    storage.store("f" + i + ".jpeg", file("f" + i + ".jpeg", "updated-" + i));
+                }
+            }
+            return null;
+        });
+        for (int round = 0; round < 10; round++) {
+            storage.compact();
+        }
+        writes.get(10, TimeUnit.SECONDS);
+        writer.shutdown();
+        storage.compact();
+
+        SegmentMediaStorage reopened = open(256);
+        for (int i = 0; i < 50; i++) {
+            String name = "f" + i + ".jpeg";
+            if (i % 2 == 0) {
+                assertThrows(ResourceNotFoundException.class, () -> reopened.load(name));
+            } else {
+                assertEquals("updated-" + i, read(reopened, name));
+            }
+        }
+    }
+
+    @Test
+    void snapshotIsSkippedWhenNothingWasAppended() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+        storage.writeSnapshot();
+        Path snapshot = tempDir.resolve("segments").resolve("index.dat");
+        Files.delete(snapshot);
+
+        storage.writeSnapshot();
+        assertFalse(Files.exists(snapshot));
+
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+        storage.writeSnapshot();
+        assertTrue(Files.exists(snapshot));
+    }
+
+    @Test
+    void interruptedReaderDoesNotBreakSegmentForOthers() throws IOException {
+        SegmentMediaStorage storage = open(1 << 20);
+        storage.store("a.jpeg", file("a.jpeg", "alpha"));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UncheckedIOException.class, () -> storage.load("a.jpeg"));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals("alpha", read(storage, "a.jpeg"));
+        storage.store("b.jpeg", file("b.jpeg", "bravo"));
+        assertEquals("bravo", read(storage, "b.jpeg"));
+    }
+
+    private void assertLiveSet(SegmentMediaStorage storage) {
+        for (int i = 0; i < 10; i++) {
+            String name = "f" + i + ".jpeg";
+            if (i % 3 == 0) {
+                assertEquals("payload-" + i, read(storage, name));
+            } else {
+                assertThrows(ResourceNotFoundException.class, () -> storage.load(name));
+            }
+        }
+    }
+
+    private SegmentMediaStorage open(long maxSegmentBytes) throws IOException {
+        SegmentMediaStorage storage = new SegmentMediaStorage(tempDir.resolve("segments"), maxSegmentBytes,
+                MAX_BLOB, 0.5, new LocalMediaStorage(tempDir));
+        opened.add(storage);
+        return storage;
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("segments"))) {
+            List<Path> segments = files.filter(p -> p.getFileName().toString().startsWith("segment-")).toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("segments"))) {
+            return files.filter(p -> p.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(SegmentMediaStorage storage, String filename) {
+        try {
+            return new String(storage.load(filename).getContentAsByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.content.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = 1_000;
+    private static final int CAPACITY = 3;
+    private static final long TOLERANCE = INTERVAL * (CAPACITY - 1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryAcquire(0, INTERVAL, TOLERANCE));
+        }
+        assertEquals(INTERVAL, bucket.tryAcquire(0, INTERVAL, TOLERANCE));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(0, INTERVAL, TOLERANCE);
+        }
+
+        assertEquals(INTERVAL / 2, bucket.tryAcquire(INTERVAL / 2, INTERVAL, TOLERANCE));
+        assertEquals(0, bucket.tryAcquire(INTERVAL, INTERVAL, TOLERANCE));
+        assertTrue(bucket.tryAcquire(INTERVAL, INTERVAL, TOLERANCE) > 0);
+    }
+
+    @Test
+    void peekDoesNotConsume() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.peek(0, TOLERANCE));
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(0, bucket.tryAcquire(0, INTERVAL, TOLERANCE));
+        }
+        assertEquals(INTERVAL, bucket.peek(0, TOLERANCE));
+    }
+
+    @Test
+    void refundReturnsToken() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(0, INTERVAL, TOLERANCE);
+        }
+
+        bucket.refund(INTERVAL);
+
+        assertEquals(0, bucket.tryAcquire(0, INTERVAL, TOLERANCE));
+        assertTrue(bucket.tryAcquire(0, INTERVAL, TOLERANCE) > 0);
+    }
+
+    @Test
+    void idleOnlyAfterFullyRefilledForIdleTimeout() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryAcquire(0, INTERVAL, TOLERANCE);
+        }
+
+        // fully refilled at t = 3 * INTERVAL
+        assertFalse(bucket.isIdle(3 * INTERVAL + 500, 1_000));
+        assertTrue(bucket.isIdle(3 * INTERVAL + 1_001, 1_000));
+    }
+}